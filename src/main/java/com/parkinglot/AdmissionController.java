@@ -0,0 +1,226 @@
+package com.parkinglot;
+
+import com.parkinglot.customexceptions.AdmissionRejectedException;
+import com.parkinglot.customexceptions.DuplicateParkingException;
+import com.parkinglot.customexceptions.NoAvailableSlotException;
+import com.parkinglot.customexceptions.VehicleNotFoundException;
+import com.parkinglot.utils.LoggerConfig;
+import com.parkinglot.utils.TokenBucket;
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/* Admission control layer in front of ParkingLotManager.
+   Arrivals that fit are parked straight away. When the lot is full for a vehicle's size, arrivals are rate limited
+   by a token bucket and then wait in a FIFO queue, instead of running the parking cascade and failing.
+   Each freed slot is granted to the longest waiting vehicle that fits in it. */
+public class AdmissionController {
+    private static final Logger logger = LoggerConfig.getLogger(AdmissionController.class);
+
+    // Default burst of queued arrivals allowed under saturation and refill rate (per second)
+    public static final int DEFAULT_BURST = 5;
+    public static final double DEFAULT_REFILL_PER_SECOND = 1.0;
+
+    // Outcome of an accepted arrival
+    public enum AdmissionResult {
+        PARKED,
+        QUEUED
+    }
+
+    // A vehicle waiting for a slot along with the time it joined the queue
+    private record WaitingVehicle(Vehicle vehicle, long enqueuedAt) {
+    }
+
+    private final ParkingLotManager parkingLotManager;
+    private final TokenBucket arrivalLimiter;
+    private final LongSupplier timeSource;
+    private final int maxQueueSize;
+
+    // Waiting vehicles in arrival order
+    private final Deque<WaitingVehicle> waitingQueue;
+
+    // Metrics
+    private long shedCount;
+    private long grantedCount;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+
+    // Initialize with default arrival rate limits
+    public AdmissionController(ParkingLotManager parkingLotManager, int maxQueueSize) {
+        this(parkingLotManager, maxQueueSize, DEFAULT_BURST, DEFAULT_REFILL_PER_SECOND, System::currentTimeMillis);
+    }
+
+    public AdmissionController(ParkingLotManager parkingLotManager, int maxQueueSize, int burst,
+                               double refillPerSecond, LongSupplier timeSource) {
+        if (maxQueueSize < 0)
+            throw new IllegalArgumentException("Queue size cannot be negative.");
+
+        this.parkingLotManager = parkingLotManager;
+        this.maxQueueSize = maxQueueSize;
+        this.timeSource = timeSource;
+        this.arrivalLimiter = new TokenBucket(burst, refillPerSecond, timeSource);
+        this.waitingQueue = new ArrayDeque<>();
+    }
+
+    /* Admits a vehicle into the parking lot.
+       Parks it if a fitting slot is free, otherwise puts it in the waiting queue.
+       Throws AdmissionRejectedException if the arrival is shed (rate limit reached or queue full). */
+    public synchronized AdmissionResult parkVehicle(Vehicle vehicle) throws AdmissionRejectedException, DuplicateParkingException {
+        String vehicleNumber = vehicle.getVehicleNumber();
+
+        // Vehicle already waiting cannot join the queue again
+        if (isVehicleQueued(vehicleNumber)) {
+            logger.warn("Vehicle {} is already waiting for a slot.", vehicleNumber);
+            throw new DuplicateParkingException("Vehicle is already waiting in queue.");
+        }
+
+        // Fast path: fitting slot is free, park right away.
+        // Already parked vehicles also go through here so ParkingLotManager rejects them as duplicates.
+        if (parkingLotManager.isVehicleParked(vehicleNumber) || parkingLotManager.hasAvailableSlot(vehicle.getSize())) {
+            try {
+                parkingLotManager.parkVehicle(vehicle);
+            } catch (NoAvailableSlotException e) {
+                // Cannot happen since availability was checked just before
+                throw new IllegalStateException("Slot became unavailable during admission.", e);
+            }
+
+            return AdmissionResult.PARKED;
+        }
+
+        // Lot is saturated for this size. Limit how fast arrivals can pile up.
+        if (!arrivalLimiter.tryAcquire()) {
+            shedCount++;
+            logger.warn("Arrival rate limit reached. Vehicle {} rejected.", vehicleNumber);
+            throw new AdmissionRejectedException("Too many arrivals. Please try again later.");
+        }
+
+        if (waitingQueue.size() >= maxQueueSize) {
+            shedCount++;
+            logger.warn("Waiting queue is full. Vehicle {} rejected.", vehicleNumber);
+            throw new AdmissionRejectedException("No slot available and waiting queue is full.");
+        }
+
+        waitingQueue.addLast(new WaitingVehicle(vehicle, timeSource.getAsLong()));
+        logger.info("No slot available. Vehicle {} added to waiting queue at position {}.", vehicleNumber, waitingQueue.size());
+
+        return AdmissionResult.QUEUED;
+    }
+
+    /* Removes a parked vehicle and grants the freed slot to the longest waiting vehicle that fits in it.
+       A vehicle that is still waiting is simply removed from the queue.
+       Returns the vehicle that got parked from the queue, if any. */
+    public synchronized Optional<Vehicle> removeVehicle(String vehicleNumber) throws VehicleNotFoundException {
+        // Leaving the queue before getting a slot
+        Iterator<WaitingVehicle> it = waitingQueue.iterator();
+        while (it.hasNext()) {
+            if (it.next().vehicle().getVehicleNumber().equals(vehicleNumber)) {
+                it.remove();
+                logger.info("Vehicle {} left the waiting queue.", vehicleNumber);
+                return Optional.empty();
+            }
+        }
+
+        parkingLotManager.removeVehicle(vehicleNumber);
+
+        return grantNextWaiting();
+    }
+
+    /* Parks the first vehicle in arrival order that fits in the currently free slots.
+       Vehicles that don't fit keep their place, so a waiting OVERSIZE vehicle does not block smaller ones. */
+    private Optional<Vehicle> grantNextWaiting() {
+        Iterator<WaitingVehicle> it = waitingQueue.iterator();
+
+        while (it.hasNext()) {
+            WaitingVehicle waiting = it.next();
+            Vehicle vehicle = waiting.vehicle();
+
+            if (parkingLotManager.hasAvailableSlot(vehicle.getSize())) {
+                it.remove();
+
+                try {
+                    parkingLotManager.parkVehicle(vehicle);
+                } catch (NoAvailableSlotException | DuplicateParkingException e) {
+                    // Cannot happen since availability was checked and queued vehicles are never parked
+                    throw new IllegalStateException("Could not park waiting vehicle.", e);
+                }
+
+                long waited = timeSource.getAsLong() - waiting.enqueuedAt();
+                grantedCount++;
+                totalWaitMillis += waited;
+                maxWaitMillis = Math.max(maxWaitMillis, waited);
+
+                logger.info("Vehicle {} granted a slot after waiting {} ms.", vehicle.getVehicleNumber(), waited);
+
+                return Optional.of(vehicle);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    // Displays the current status of the parking lot and the waiting queue.
+    public synchronized void displayStatus() {
+        parkingLotManager.displayStatus();
+
+        System.out.println("===== Waiting Queue Status =====");
+        System.out.println("Waiting Vehicles: " + waitingQueue.size() + " / " + maxQueueSize);
+
+        for (WaitingVehicle waiting : waitingQueue) {
+            System.out.println("Vehicle: " + waiting.vehicle().getVehicleNumber() + " | Size: " + waiting.vehicle().getSize());
+        }
+
+        System.out.println("Granted From Queue: " + grantedCount + " | Rejected: " + shedCount);
+        System.out.println("Average Wait (ms): " + getAverageWaitMillis() + " | Max Wait (ms): " + maxWaitMillis);
+        System.out.println("================================");
+    }
+
+    // Checks if a vehicle is currently waiting for a slot
+    public synchronized boolean isVehicleQueued(String vehicleNumber) {
+        for (WaitingVehicle waiting : waitingQueue) {
+            if (waiting.vehicle().getVehicleNumber().equals(vehicleNumber))
+                return true;
+        }
+
+        return false;
+    }
+
+    // Metrics getters
+    public synchronized int getQueueDepth() {
+        return waitingQueue.size();
+    }
+
+    public synchronized int getQueueDepth(SlotType size) {
+        int count = 0;
+
+        for (WaitingVehicle waiting : waitingQueue) {
+            if (waiting.vehicle().getSize() == size)
+                count++;
+        }
+
+        return count;
+    }
+
+    // How long the vehicle at the head of the queue has been waiting so far (0 if queue is empty)
+    public synchronized long getOldestWaitMillis() {
+        WaitingVehicle oldest = waitingQueue.peekFirst();
+        return oldest == null ? 0 : timeSource.getAsLong() - oldest.enqueuedAt();
+    }
+
+    // Average wait of vehicles granted a slot from the queue (0 if none granted yet)
+    public synchronized long getAverageWaitMillis() {
+        return grantedCount == 0 ? 0 : totalWaitMillis / grantedCount;
+    }
+
+    public synchronized long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public synchronized long getGrantedCount() {
+        return grantedCount;
+    }
+
+    public synchronized long getShedCount() {
+        return shedCount;
+    }
+}
@@ -1,18 +1,19 @@
 package com.parkinglot;
 
+import com.parkinglot.customexceptions.AdmissionRejectedException;
 import com.parkinglot.customexceptions.DuplicateParkingException;
-import com.parkinglot.customexceptions.NoAvailableSlotException;
 import com.parkinglot.customexceptions.VehicleNotFoundException;
 import com.parkinglot.utils.LoggerConfig;
 import org.slf4j.Logger;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 import java.util.Scanner;
 
 public class Main {
     private static final Logger logger = LoggerConfig.getLogger(Main.class);
 
-    private static ParkingLotManager parkingLotManager;
+    private static AdmissionController admissionController;
     private static Scanner sc;
 
     public static void main(String[] args) {
@@ -44,7 +45,7 @@ public class Main {
                     break;
 
                 case "3":
-                    parkingLotManager.displayStatus();
+                    admissionController.displayStatus();
                     break;
 
                 case "4":
@@ -81,7 +82,8 @@ public class Main {
             }
         }
 
-        parkingLotManager = new ParkingLotManager(slots);
+        // Vehicles arriving when the lot is full wait in a queue (up to as many vehicles as there are slots)
+        admissionController = new AdmissionController(new ParkingLotManager(slots), slots);
         System.out.println("Parking lot created with " + slots + " total slots.");
         logger.info("Parking lot created with {} total slots.", slots);
     }
@@ -120,14 +122,18 @@ public class Main {
                     default -> throw new IllegalArgumentException();
                 };
 
-                // Create and park vehicle with number and size
+                // Create and park vehicle with number and size (or queue it if no slot is available)
                 Vehicle vehicle = new Vehicle(number, type);
-                parkingLotManager.parkVehicle(vehicle);
-                System.out.println("Successfully parked vehicle: " + number);
+                AdmissionController.AdmissionResult result = admissionController.parkVehicle(vehicle);
+
+                if (result == AdmissionController.AdmissionResult.PARKED)
+                    System.out.println("Successfully parked vehicle: " + number);
+                else
+                    System.out.println("No slot available. Vehicle " + number + " added to waiting queue.");
                 break;
             } catch (IllegalArgumentException e) {
                 System.out.println("Invalid choice. Please enter 1, 2, or 3.");
-            } catch (NoAvailableSlotException | DuplicateParkingException e) {
+            } catch (AdmissionRejectedException | DuplicateParkingException e) {
                 System.out.println("Error: " + e.getMessage());
                 break;
             }
@@ -149,8 +155,11 @@ public class Main {
         }
 
         try {
-            parkingLotManager.removeVehicle(number);
-            System.out.println("Successfully removed vehicle from parking: " + number);
+            Optional<Vehicle> granted = admissionController.removeVehicle(number);
+            System.out.println("Successfully removed vehicle: " + number);
+
+            // Freed slot may be given to a waiting vehicle
+            granted.ifPresent(v -> System.out.println("Waiting vehicle " + v.getVehicleNumber() + " is now parked."));
         } catch (VehicleNotFoundException e) {
             System.out.println("Error: " + e.getMessage());
         }
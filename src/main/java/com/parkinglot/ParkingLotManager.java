@@ -135,6 +135,23 @@ public class ParkingLotManager {
         return parkedVehicles.containsKey(vehicleNumber);
     }
 
+    /* Checks if a vehicle of given size can currently be parked, following the same fallback rules as parkVehicle.
+       Only reads free slot counts, so callers can test occupancy without running the parking cascade. */
+    public boolean hasAvailableSlot(SlotType vehicleSize) {
+        if(freeSlots.get(vehicleSize) > 0)
+            return true;
+
+        if(vehicleSize == SlotType.SMALL && freeSlots.get(SlotType.LARGE) > 0)
+            return true;
+
+        return (vehicleSize == SlotType.SMALL || vehicleSize == SlotType.LARGE) && freeSlots.get(SlotType.OVERSIZE) > 0;
+    }
+
+    // Returns the number of free slots of the given slot type
+    public int getFreeSlotCount(SlotType size) {
+        return freeSlots.get(size);
+    }
+
     // Getters for unit testing and persistence
     public int getSmallSlotCount() {
         return freeSlots.get(SlotType.SMALL);
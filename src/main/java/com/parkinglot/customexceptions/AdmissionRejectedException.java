@@ -0,0 +1,7 @@
+package com.parkinglot.customexceptions;
+
+public class AdmissionRejectedException extends Exception {
+    public AdmissionRejectedException(String message) {
+        super(message);
+    }
+}
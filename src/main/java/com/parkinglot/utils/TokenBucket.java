@@ -0,0 +1,55 @@
+package com.parkinglot.utils;
+
+import java.util.function.LongSupplier;
+
+/* Simple token bucket rate limiter.
+   Holds up to "capacity" tokens and refills "refillPerSecond" tokens every second (based on the given time source in milliseconds). */
+public class TokenBucket {
+    private final int capacity;
+    private final double refillPerMilli;
+    private final LongSupplier timeSource;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(int capacity, double refillPerSecond, LongSupplier timeSource) {
+        if (capacity <= 0 || refillPerSecond < 0)
+            throw new IllegalArgumentException("Capacity must be positive and refill rate cannot be negative.");
+
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerSecond / 1000.0;
+        this.timeSource = timeSource;
+
+        // Start with a full bucket
+        this.tokens = capacity;
+        this.lastRefill = timeSource.getAsLong();
+    }
+
+    // Takes one token if available. Returns true if successful, false otherwise.
+    public boolean tryAcquire() {
+        refill();
+
+        if (tokens >= 1) {
+            tokens--;
+            return true;
+        }
+
+        return false;
+    }
+
+    // Returns the number of whole tokens currently available
+    public int getAvailableTokens() {
+        refill();
+        return (int) tokens;
+    }
+
+    // Add tokens for the time passed since last refill, without going over capacity
+    private void refill() {
+        long now = timeSource.getAsLong();
+
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMilli);
+            lastRefill = now;
+        }
+    }
+}
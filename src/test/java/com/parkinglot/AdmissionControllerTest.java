@@ -0,0 +1,188 @@
+package com.parkinglot;
+
+import com.parkinglot.customexceptions.AdmissionRejectedException;
+import com.parkinglot.customexceptions.DuplicateParkingException;
+import com.parkinglot.customexceptions.VehicleNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControllerTest {
+
+    private ParkingLotManager parkingLotManager;
+    private AdmissionController admissionController;
+
+    // Manually controlled clock (milliseconds)
+    private AtomicLong clock;
+
+    // Use a new parking lot and controller each test
+    @BeforeEach
+    void setUp() {
+        // 3 total slots, 1 SMALL, 1 LARGE, 1 OVERSIZE
+        parkingLotManager = new ParkingLotManager(3);
+        clock = new AtomicLong(0);
+
+        // Queue holds 2 vehicles, burst of 3 queued arrivals, 1 token per second
+        admissionController = new AdmissionController(parkingLotManager, 2, 3, 1.0, clock::get);
+    }
+
+    // Test if vehicle is parked directly when a slot is available
+    @Test
+    void testParkWhenSlotAvailable() throws AdmissionRejectedException, DuplicateParkingException {
+        System.out.println("\n--- Test: ParkWhenSlotAvailable ---");
+
+        assertEquals(AdmissionController.AdmissionResult.PARKED,
+                admissionController.parkVehicle(new Vehicle("S1", SlotType.SMALL)));
+        assertTrue(parkingLotManager.isVehicleParked("S1"));
+        assertEquals(0, admissionController.getQueueDepth());
+
+        System.out.println("Vehicle parked without queueing.");
+    }
+
+    // Test if vehicle is queued when no fitting slot is available, and granted a slot when one is freed
+    @Test
+    void testQueuedVehicleGrantedOnRemoval() throws AdmissionRejectedException, DuplicateParkingException, VehicleNotFoundException {
+        System.out.println("\n--- Test: QueuedVehicleGrantedOnRemoval ---");
+
+        admissionController.parkVehicle(new Vehicle("O1", SlotType.OVERSIZE));
+
+        // No OVERSIZE slot left, should wait
+        assertEquals(AdmissionController.AdmissionResult.QUEUED,
+                admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE)));
+        assertFalse(parkingLotManager.isVehicleParked("O2"));
+        assertEquals(1, admissionController.getQueueDepth(SlotType.OVERSIZE));
+
+        // Wait 4 seconds, then free the OVERSIZE slot
+        clock.addAndGet(4000);
+        assertEquals(4000, admissionController.getOldestWaitMillis());
+
+        Optional<Vehicle> granted = admissionController.removeVehicle("O1");
+
+        // Waiting vehicle should now be parked
+        assertTrue(granted.isPresent());
+        assertEquals("O2", granted.get().getVehicleNumber());
+        assertEquals(SlotType.OVERSIZE, parkingLotManager.getParkedVehicles().get("O2"));
+        assertEquals(0, admissionController.getQueueDepth());
+        assertEquals(1, admissionController.getGrantedCount());
+        assertEquals(4000, admissionController.getAverageWaitMillis());
+        assertEquals(4000, admissionController.getMaxWaitMillis());
+
+        System.out.println("Waiting vehicle parked after slot was freed.");
+    }
+
+    // Test if freed slot goes to the longest waiting vehicle that fits, skipping vehicles that don't fit
+    @Test
+    void testFreedSlotGoesToOldestFittingVehicle() throws AdmissionRejectedException, DuplicateParkingException, VehicleNotFoundException {
+        System.out.println("\n--- Test: FreedSlotGoesToOldestFittingVehicle ---");
+
+        // Fill all slots
+        admissionController.parkVehicle(new Vehicle("S1", SlotType.SMALL));
+        admissionController.parkVehicle(new Vehicle("L1", SlotType.LARGE));
+        admissionController.parkVehicle(new Vehicle("O1", SlotType.OVERSIZE));
+
+        // OVERSIZE vehicle waits first, then SMALL vehicle
+        admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE));
+        admissionController.parkVehicle(new Vehicle("S2", SlotType.SMALL));
+
+        // Freed LARGE slot cannot fit OVERSIZE vehicle, so SMALL vehicle gets it
+        Optional<Vehicle> granted = admissionController.removeVehicle("L1");
+
+        assertTrue(granted.isPresent());
+        assertEquals("S2", granted.get().getVehicleNumber());
+        assertEquals(SlotType.LARGE, parkingLotManager.getParkedVehicles().get("S2"));
+
+        // OVERSIZE vehicle keeps waiting
+        assertTrue(admissionController.isVehicleQueued("O2"));
+        assertEquals(1, admissionController.getQueueDepth());
+
+        System.out.println("Small vehicle parked in freed large slot, oversize vehicle still waiting.");
+    }
+
+    // Test if arrivals are rejected when the waiting queue is full
+    @Test
+    void testRejectWhenQueueFull() throws AdmissionRejectedException, DuplicateParkingException {
+        System.out.println("\n--- Test: RejectWhenQueueFull ---");
+
+        admissionController.parkVehicle(new Vehicle("O1", SlotType.OVERSIZE));
+        admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE));
+        admissionController.parkVehicle(new Vehicle("O3", SlotType.OVERSIZE));
+
+        // Make sure exception is thrown and get it
+        AdmissionRejectedException ar = assertThrows(
+                AdmissionRejectedException.class,
+                () -> admissionController.parkVehicle(new Vehicle("O4", SlotType.OVERSIZE))
+        );
+
+        // Check if expected message is shown
+        assertEquals("No slot available and waiting queue is full.", ar.getMessage());
+        assertEquals(2, admissionController.getQueueDepth());
+        assertEquals(1, admissionController.getShedCount());
+
+        System.out.println("Vehicle rejected as waiting queue is full.");
+    }
+
+    // Test if repeated arrivals under saturation are rate limited, and allowed again after tokens refill
+    @Test
+    void testRejectWhenRateLimited() throws AdmissionRejectedException, DuplicateParkingException, VehicleNotFoundException {
+        System.out.println("\n--- Test: RejectWhenRateLimited ---");
+
+        admissionController.parkVehicle(new Vehicle("O1", SlotType.OVERSIZE));
+
+        // Use up all 3 tokens: one queued, two leave and retry
+        admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE));
+        admissionController.removeVehicle("O2");
+        admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE));
+        admissionController.removeVehicle("O2");
+        admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE));
+        admissionController.removeVehicle("O2");
+
+        // Make sure exception is thrown and get it
+        AdmissionRejectedException ar = assertThrows(
+                AdmissionRejectedException.class,
+                () -> admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE))
+        );
+
+        // Check if expected message is shown
+        assertEquals("Too many arrivals. Please try again later.", ar.getMessage());
+        assertEquals(0, admissionController.getQueueDepth());
+
+        // After 1 second a token is refilled
+        clock.addAndGet(1000);
+        assertEquals(AdmissionController.AdmissionResult.QUEUED,
+                admissionController.parkVehicle(new Vehicle("O2", SlotType.OVERSIZE)));
+
+        System.out.println("Arrival rate limited and allowed again after refill.");
+    }
+
+    // Test if same vehicle CANNOT join the queue twice or be queued while parked
+    @Test
+    void testDuplicateArrivalRejected() throws AdmissionRejectedException, DuplicateParkingException {
+        System.out.println("\n--- Test: DuplicateArrivalRejected ---");
+
+        Vehicle parked = new Vehicle("O1", SlotType.OVERSIZE);
+        Vehicle waiting = new Vehicle("O2", SlotType.OVERSIZE);
+        admissionController.parkVehicle(parked);
+        admissionController.parkVehicle(waiting);
+
+        DuplicateParkingException dp = assertThrows(
+                DuplicateParkingException.class,
+                () -> admissionController.parkVehicle(waiting)
+        );
+        assertEquals("Vehicle is already waiting in queue.", dp.getMessage());
+
+        dp = assertThrows(
+                DuplicateParkingException.class,
+                () -> admissionController.parkVehicle(parked)
+        );
+        assertEquals("Vehicle is already parked.", dp.getMessage());
+
+        // Verify there is only 1 waiting vehicle
+        assertEquals(1, admissionController.getQueueDepth());
+
+        System.out.println("Duplicate arrivals rejected.");
+    }
+}
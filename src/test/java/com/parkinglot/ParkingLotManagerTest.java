@@ -266,6 +266,38 @@ class ParkingLotManagerTest {
         System.out.println("No large or oversize slot available and large vehicle cannot be parked in small slot.");
     }
 
+    // Test if slot availability check follows the same fallback rules as parking
+    @Test
+    void testHasAvailableSlotFollowsFallback() throws NoAvailableSlotException, DuplicateParkingException {
+        System.out.println("\n--- Test: HasAvailableSlotFollowsFallback ---");
+
+        int i = 1, j = 1, n = parkingLotManager.getOversizeSlotCount();
+
+        // Fill all OVERSIZE slots
+        while(j++ <= n)
+            parkingLotManager.parkVehicle(new Vehicle("O" + i++, SlotType.OVERSIZE));
+
+        // OVERSIZE vehicle has nowhere to go, smaller vehicles still fit
+        assertFalse(parkingLotManager.hasAvailableSlot(SlotType.OVERSIZE));
+        assertTrue(parkingLotManager.hasAvailableSlot(SlotType.LARGE));
+        assertTrue(parkingLotManager.hasAvailableSlot(SlotType.SMALL));
+
+        j = 1;
+        n = parkingLotManager.getLargeSlotCount();
+
+        // Fill all LARGE slots
+        while(j++ <= n)
+            parkingLotManager.parkVehicle(new Vehicle("L" + i++, SlotType.LARGE));
+
+        // LARGE vehicle cannot fall back to SMALL slots
+        assertFalse(parkingLotManager.hasAvailableSlot(SlotType.LARGE));
+        assertTrue(parkingLotManager.hasAvailableSlot(SlotType.SMALL));
+        assertEquals(3, parkingLotManager.getFreeSlotCount(SlotType.SMALL));
+
+        System.out.println("Free Slots: " + freeSlotStatus());
+        System.out.println("Only small vehicles can still be parked.");
+    }
+
     // Helper method to build slot status string
     private String freeSlotStatus() {
         return "SMALL=" + parkingLotManager.getSmallSlotCount() +